@@ -4,10 +4,14 @@ import com.example.service.StudentService;
 import com.example.students.api.StudentsApi;
 import com.example.students.model.StudentRequest;
 import com.example.students.model.StudentResponse;
+import com.example.students.model.StudentUpdateRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * REST controller for managing student resources.
  * <p>
@@ -21,6 +25,12 @@ import org.springframework.web.bind.annotation.RestController;
  * based on the constraints defined in the OpenAPI specification.
  * Error responses follow RFC 7807 Problem Details format.
  * </p>
+ * <p>
+ * Updates and deletes are conditional requests: the If-Match header carries the
+ * student version the client last read as a strong entity tag (e.g. {@code "1"}),
+ * or {@code *} to accept any current version. The current version is returned in
+ * the ETag header of reads and successful updates.
+ * </p>
  *
  * @author Spring Boot OpenAPI Generator
  * @version 1.0
@@ -31,6 +41,25 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class StudentController implements StudentsApi {
 
+    /**
+     * An If-Match value that is a well-formed list of entity tags (RFC 9110, section 8.8.3).
+     * Only {@code etagc} characters are allowed between the quotes.
+     */
+    private static final Pattern ENTITY_TAG_LIST = Pattern.compile(
+        "(?:W/)?\"[\\x21\\x23-\\x7E\\x80-\\xFF]*\"(?:[ \\t]*,[ \\t]*(?:W/)?\"[\\x21\\x23-\\x7E\\x80-\\xFF]*\")*");
+
+    /**
+     * A single strong entity tag spelled exactly as the ETag this controller sends, such as
+     * {@code "3"}. Tags are compared character by character, so {@code "03"} does not match.
+     */
+    private static final Pattern STRONG_VERSION_TAG = Pattern.compile("\"(0|[1-9]\\d{0,17})\"");
+
+    /**
+     * Expected version for well-formed If-Match values that can never match, such as weak
+     * tags or lists. Student versions start at 1, so the update or delete fails with HTTP 412.
+     */
+    private static final long NO_MATCHING_VERSION = 0L;
+
     /**
      * Service layer for student business logic.
      */
@@ -66,4 +95,90 @@ public class StudentController implements StudentsApi {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Returns an existing student resource.
+     * <p>
+     * This method implements the GET /students/{id} endpoint defined in the OpenAPI specification.
+     * The current version is returned as ETag so that clients can send it back as If-Match
+     * on update and delete. Unknown students return HTTP 404.
+     * </p>
+     *
+     * @param id the student ID
+     * @return ResponseEntity with HTTP 200 (OK) status, the student details and its version as ETag
+     * @throws com.example.exception.StudentNotFoundException if the student does not exist (returns HTTP 404)
+     */
+    @Override
+    public ResponseEntity<StudentResponse> studentsIdGet(String id) {
+        StudentResponse response = studentService.getStudent(id);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(response.getVersion()))
+            .body(response);
+    }
+
+    /**
+     * Updates an existing student resource.
+     * <p>
+     * This method implements the PATCH /students/{id} endpoint defined in the OpenAPI specification.
+     * Only the fields present in the request are changed. The update is applied only if the
+     * student is still at the version given in If-Match; stale versions return HTTP 412,
+     * unknown students HTTP 404 and duplicate emails HTTP 409.
+     * </p>
+     *
+     * @param id the student ID
+     * @param ifMatch the version the client last read, e.g. {@code "1"}, or {@code *}
+     * @param request the fields to change
+     * @return ResponseEntity with HTTP 200 (OK) status, the updated student and its new version as ETag
+     * @throws com.example.exception.StudentVersionMismatchException if the version is stale (returns HTTP 412)
+     */
+    @Override
+    public ResponseEntity<StudentResponse> studentsIdPatch(String id, String ifMatch, StudentUpdateRequest request) {
+        StudentResponse response = studentService.updateStudent(id, parseVersion(ifMatch), request);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(response.getVersion()))
+            .body(response);
+    }
+
+    /**
+     * Deletes an existing student resource.
+     * <p>
+     * This method implements the DELETE /students/{id} endpoint defined in the OpenAPI specification.
+     * The student is deleted only if it is still at the version given in If-Match; stale
+     * versions return HTTP 412 and unknown students HTTP 404.
+     * </p>
+     *
+     * @param id the student ID
+     * @param ifMatch the version the client last read, e.g. {@code "1"}, or {@code *}
+     * @return ResponseEntity with HTTP 204 (No Content) status
+     * @throws com.example.exception.StudentVersionMismatchException if the version is stale (returns HTTP 412)
+     */
+    @Override
+    public ResponseEntity<Void> studentsIdDelete(String id, String ifMatch) {
+        studentService.deleteStudent(id, parseVersion(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Parses the expected student version from an If-Match header value.
+     * <p>
+     * Follows RFC 9110: {@code *} matches any existing student, and a single strong entity
+     * tag such as {@code "3"} matches only that version. Since If-Match uses strong
+     * comparison and a student has exactly one current version, weak tags, lists and
+     * other tags are well-formed preconditions that never match (HTTP 412).
+     * </p>
+     *
+     * @param ifMatch the If-Match header value
+     * @return the version the client expects the student to be at, or {@code null} for any version
+     * @throws IllegalArgumentException if the value is not {@code *} or a list of entity tags (returns HTTP 400)
+     */
+    private static Long parseVersion(String ifMatch) {
+        String value = ifMatch.strip();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (!ENTITY_TAG_LIST.matcher(value).matches()) {
+            throw new IllegalArgumentException("If-Match must be * or an entity tag, e.g. \"1\"");
+        }
+        Matcher strongTag = STRONG_VERSION_TAG.matcher(value);
+        return strongTag.matches() ? Long.parseLong(strongTag.group(1)) : NO_MATCHING_VERSION;
+    }
 }
\ No newline at end of file
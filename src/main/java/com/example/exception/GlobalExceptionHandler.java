@@ -34,6 +34,8 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Validation errors (400 Bad Request)</li>
  *   <li>Business rule violations like duplicate emails (409 Conflict)</li>
+ *   <li>Unknown students (404 Not Found)</li>
+ *   <li>Stale If-Match versions (412 Precondition Failed)</li>
  *   <li>Invalid arguments (400 Bad Request)</li>
  *   <li>Unexpected server errors (500 Internal Server Error)</li>
  * </ul>
@@ -89,6 +91,40 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
 
+    /**
+     * Handles requests for students that do not exist.
+     * Returns RFC 7807 Problem Details response.
+     */
+    @ExceptionHandler(StudentNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleStudentNotFound(StudentNotFoundException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.NOT_FOUND,
+            ex.getMessage()
+        );
+
+        problemDetail.setType(URI.create("https://api.example.com/errors/student-not-found"));
+        problemDetail.setTitle("Student Not Found");
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
+    }
+
+    /**
+     * Handles optimistic concurrency failures where If-Match is not the current version.
+     * Returns RFC 7807 Problem Details response.
+     */
+    @ExceptionHandler(StudentVersionMismatchException.class)
+    public ResponseEntity<ProblemDetail> handleVersionMismatch(StudentVersionMismatchException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.PRECONDITION_FAILED,
+            ex.getMessage()
+        );
+
+        problemDetail.setType(URI.create("https://api.example.com/errors/version-mismatch"));
+        problemDetail.setTitle("Version Mismatch");
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(problemDetail);
+    }
+
     /**
      * Handles illegal argument exceptions.
      * Returns RFC 7807 Problem Details response.
@@ -0,0 +1,26 @@
+package com.example.exception;
+
+/**
+ * Exception thrown when a student with the requested ID does not exist.
+ * <p>
+ * This is an unchecked exception raised by read, update and delete operations. When it is
+ * thrown, the {@link GlobalExceptionHandler} catches it and returns an RFC 7807
+ * Problem Details response with HTTP status 404 (Not Found).
+ * </p>
+ *
+ * @author Spring Boot OpenAPI Generator
+ * @version 1.0
+ * @since 1.0
+ * @see GlobalExceptionHandler#handleStudentNotFound(StudentNotFoundException)
+ */
+public class StudentNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new StudentNotFoundException with the specified detail message.
+     *
+     * @param message the detail message explaining the cause of the exception
+     */
+    public StudentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.exception;
+
+/**
+ * Exception thrown when the version sent in the If-Match header is not the current
+ * version of the student.
+ * <p>
+ * This indicates that the student was changed by another request since the client
+ * last read it, so the update or delete is rejected instead of silently overwriting
+ * that change. When it is thrown, the {@link GlobalExceptionHandler} catches it and
+ * returns an RFC 7807 Problem Details response with HTTP status 412 (Precondition Failed).
+ * </p>
+ *
+ * @author Spring Boot OpenAPI Generator
+ * @version 1.0
+ * @since 1.0
+ * @see GlobalExceptionHandler#handleVersionMismatch(StudentVersionMismatchException)
+ */
+public class StudentVersionMismatchException extends RuntimeException {
+
+    /**
+     * Constructs a new StudentVersionMismatchException with the specified detail message.
+     *
+     * @param message the detail message explaining the cause of the exception
+     */
+    public StudentVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
  * </p>
  * <ul>
  *   <li>Constructor with all fields</li>
- *   <li>Accessor methods (id(), name(), email(), phone(), createdAt())</li>
+ *   <li>Accessor methods (id(), name(), email(), phone(), createdAt(), version())</li>
  *   <li>equals(), hashCode(), and toString() methods</li>
  * </ul>
  * <p>
@@ -18,19 +18,38 @@ import java.time.LocalDateTime;
  * the API DTOs (StudentRequest/StudentResponse) to maintain separation between
  * domain models and API contracts.
  * </p>
+ * <p>
+ * Since records cannot be modified, an update produces a new Student with an
+ * incremented {@code version} (see {@link #withChanges(String, String, String)}).
+ * The service layer uses the version for optimistic concurrency control.
+ * </p>
  *
  * @param id unique identifier for the student, typically a UUID
  * @param name full name of the student
  * @param email email address of the student (must be unique)
  * @param phone phone number of the student
  * @param createdAt timestamp when the student record was created
+ * @param version version of the student record, starting at 1 and incremented on every update
  *
  * @author Spring Boot OpenAPI Generator
  * @version 1.0
  * @since 1.0
  * @see java.lang.Record
  */
-public record Student(String id, String name, String email, String phone, LocalDateTime createdAt) {
+public record Student(String id, String name, String email, String phone, LocalDateTime createdAt, long version) {
+
+    /**
+     * Creates a Student at the initial version 1.
+     *
+     * @param id unique identifier for the student
+     * @param name full name of the student
+     * @param email email address of the student
+     * @param phone phone number of the student
+     * @param createdAt timestamp when the student record was created
+     */
+    public Student(String id, String name, String email, String phone, LocalDateTime createdAt) {
+        this(id, name, email, phone, createdAt, 1L);
+    }
 
     /**
      * Factory method to create a new Student instance with auto-generated ID and timestamp.
@@ -60,4 +79,27 @@ public record Student(String id, String name, String email, String phone, LocalD
             LocalDateTime.now()
         );
     }
+
+    /**
+     * Returns the next version of this student with the given fields changed.
+     * <p>
+     * A {@code null} argument keeps the current value of that field. The id and
+     * creation timestamp are preserved and the version is incremented by one.
+     * </p>
+     *
+     * @param name the new name, or {@code null} to keep the current one
+     * @param email the new email, or {@code null} to keep the current one
+     * @param phone the new phone, or {@code null} to keep the current one
+     * @return a new Student instance with the changes applied and the next version
+     */
+    public Student withChanges(String name, String email, String phone) {
+        return new Student(
+            id,
+            name != null ? name : this.name,
+            email != null ? email : this.email,
+            phone != null ? phone : this.phone,
+            createdAt,
+            version + 1
+        );
+    }
 }
@@ -1,26 +1,37 @@
 package com.example.service;
 
 import com.example.exception.EmailAlreadyExistsException;
+import com.example.exception.StudentNotFoundException;
+import com.example.exception.StudentVersionMismatchException;
 import com.example.model.Student;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.example.students.model.StudentRequest;
 import com.example.students.model.StudentResponse;
+import com.example.students.model.StudentUpdateRequest;
 import org.springframework.stereotype.Service;
 
 /**
  * Service class for managing student business logic.
  * <p>
  * This service provides the core business logic for student management operations,
- * including creation, validation, and data transformation. It uses an in-memory
- * thread-safe storage implementation using {@link ConcurrentHashMap}.
+ * including creation, update, deletion, validation, and data transformation. It uses
+ * an in-memory thread-safe storage implementation using {@link ConcurrentHashMap}.
+ * </p>
+ * <p>
+ * Updates and deletes use optimistic concurrency control: the caller passes the
+ * version it last read, and the stored record is swapped with a compare-and-swap
+ * ({@link ConcurrentHashMap#replace(Object, Object, Object)} /
+ * {@link ConcurrentHashMap#remove(Object, Object)}) so no global lock is ever taken.
+ * A failed swap always means another request changed the student first.
  * </p>
  * <p>
  * Key responsibilities:
  * </p>
  * <ul>
  *   <li>Student creation with duplicate email validation</li>
+ *   <li>Versioned student update and deletion</li>
  *   <li>Transformation between domain models and API DTOs</li>
  *   <li>Business rule enforcement (e.g., unique email constraint)</li>
  * </ul>
@@ -35,6 +46,15 @@ import org.springframework.stereotype.Service;
 @Service
 public class StudentService {
 
+    /**
+     * Detail of every version mismatch, whether found on read or by a lost compare-and-swap.
+     * <p>
+     * The current version is deliberately left out; clients read it with {@link #getStudent(String)}.
+     * </p>
+     */
+    private static final String VERSION_MISMATCH =
+        "Student was modified by another request; read it again to get the current version";
+
     /**
      * Thread-safe in-memory storage for student records.
      * <p>
@@ -44,14 +64,26 @@ public class StudentService {
      */
     private final Map<String, Student> students = new ConcurrentHashMap<>();
 
+    /**
+     * Unique email index, mapping each reserved email to the student version that holds it.
+     * <p>
+     * A student keeps its reservation across updates that do not touch the email, so the
+     * holder may be an older version of the stored student. When an email changes, the new
+     * email is reserved before the student is swapped and the old one is released only
+     * after the swap succeeds, so an email is never free while its student still uses it
+     * and never held by two different students.
+     * </p>
+     */
+    private final Map<String, Student> emailOwners = new ConcurrentHashMap<>();
+
     /**
      * Creates a new student and stores it in memory.
      * <p>
      * This method performs the following operations:
      * </p>
      * <ol>
-     *   <li>Validates that the email is unique</li>
      *   <li>Creates a new Student record with generated ID and timestamp</li>
+     *   <li>Atomically reserves the email, failing if it is already taken</li>
      *   <li>Stores the student in memory</li>
      *   <li>Returns the API response DTO</li>
      * </ol>
@@ -63,13 +95,13 @@ public class StudentService {
      */
     public StudentResponse createStudent(StudentRequest request) {
 
-        if (emailExists(request.getEmail())) {
-            throw new EmailAlreadyExistsException("Email already exists");
-        }
-
         // Create new student using factory method
         Student student = Student.create(request.getName(), request.getEmail(), request.getPhone());
 
+        if (emailOwners.putIfAbsent(student.email(), student) != null) {
+            throw new EmailAlreadyExistsException("Email already exists");
+        }
+
         // Save to memory
         students.put(student.id(), student);
 
@@ -77,6 +109,196 @@ public class StudentService {
         return toStudentResponse(student);
     }
 
+    /**
+     * Returns the current state of a student.
+     *
+     * @param id the student ID
+     * @return StudentResponse containing the student details and current version
+     * @throws StudentNotFoundException if no student with this ID exists
+     */
+    public StudentResponse getStudent(String id) {
+        Student student = students.get(id);
+        if (student == null) {
+            throw new StudentNotFoundException("Student not found");
+        }
+        return toStudentResponse(student);
+    }
+
+    /**
+     * Updates a student if it is still at the expected version.
+     * <p>
+     * This method performs the following operations:
+     * </p>
+     * <ol>
+     *   <li>Checks that the stored student is at {@code expectedVersion}, if one is given</li>
+     *   <li>Builds the next version with the non-null fields of the request applied</li>
+     *   <li>If the email changes, reserves the new email</li>
+     *   <li>Replaces the stored student only if it is still the version read in step 1</li>
+     *   <li>If the email changed, releases the old email (or the new one if the swap failed)</li>
+     * </ol>
+     * <p>
+     * Without an expected version, losing to a concurrent update is not an error: the
+     * student is read again and the update retried until it is applied or the student is gone.
+     * </p>
+     *
+     * @param id the student ID
+     * @param expectedVersion the version the client last read, taken from If-Match,
+     *                        or {@code null} to accept any current version
+     * @param request the fields to change; {@code null} fields are left as they are
+     * @return StudentResponse containing the updated student details and its new version
+     * @throws StudentNotFoundException if no student with this ID exists
+     * @throws StudentVersionMismatchException if the student is not at {@code expectedVersion}
+     * @throws EmailAlreadyExistsException if the new email belongs to another student
+     * @see Student#withChanges(String, String, String)
+     */
+    public StudentResponse updateStudent(String id, Long expectedVersion, StudentUpdateRequest request) {
+        while (true) {
+            Student current = getCurrent(id, expectedVersion);
+            Student updated = current.withChanges(request.getName(), request.getEmail(), request.getPhone());
+            boolean emailChanged = !updated.email().equals(current.email());
+
+            if (emailChanged && !reserveEmail(current, updated)) {
+                if (expectedVersion != null) {
+                    throw new StudentVersionMismatchException(VERSION_MISMATCH);
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (students.replace(id, current, updated)) {
+                if (emailChanged) {
+                    releaseEmail(current);
+                }
+                return toStudentResponse(updated);
+            }
+
+            if (emailChanged) {
+                emailOwners.remove(updated.email(), updated);
+            }
+            if (expectedVersion != null) {
+                throw staleVersion(id);
+            }
+        }
+    }
+
+    /**
+     * Deletes a student if it is still at the expected version.
+     * <p>
+     * The student is removed with a compare-and-swap against the version read, and its
+     * email is released only after the removal succeeds. Without an expected version, a
+     * lost swap is retried until the student is removed, by this or another request.
+     * </p>
+     *
+     * @param id the student ID
+     * @param expectedVersion the version the client last read, taken from If-Match,
+     *                        or {@code null} to accept any current version
+     * @throws StudentNotFoundException if no student with this ID exists
+     * @throws StudentVersionMismatchException if the student is not at {@code expectedVersion}
+     */
+    public void deleteStudent(String id, Long expectedVersion) {
+        while (true) {
+            Student current = getCurrent(id, expectedVersion);
+
+            if (students.remove(id, current)) {
+                releaseEmail(current);
+                return;
+            }
+
+            if (expectedVersion != null) {
+                throw staleVersion(id);
+            }
+        }
+    }
+
+    /**
+     * Reads the stored student and checks it is at the expected version.
+     *
+     * @param id the student ID
+     * @param expectedVersion the version the client last read, or {@code null} to accept any
+     * @return the stored student
+     * @throws StudentNotFoundException if no student with this ID exists
+     * @throws StudentVersionMismatchException if the student is at another version
+     */
+    private Student getCurrent(String id, Long expectedVersion) {
+        Student current = students.get(id);
+        if (current == null) {
+            throw new StudentNotFoundException("Student not found");
+        }
+        if (expectedVersion != null && current.version() != expectedVersion) {
+            throw new StudentVersionMismatchException(VERSION_MISMATCH);
+        }
+        return current;
+    }
+
+    /**
+     * Builds the exception for a compare-and-swap that lost against another request.
+     * <p>
+     * The student was either deleted or moved to a newer version in the meantime.
+     * </p>
+     *
+     * @param id the student ID
+     * @return the exception to throw
+     */
+    private RuntimeException staleVersion(String id) {
+        if (!students.containsKey(id)) {
+            return new StudentNotFoundException("Student not found");
+        }
+        return new StudentVersionMismatchException(VERSION_MISMATCH);
+    }
+
+    /**
+     * Reserves the email of {@code updated} for the student before it is swapped in.
+     * <p>
+     * The email is taken if it is free, or if it is still held by a version of the same
+     * student that is not newer than {@code current} (a reservation whose release has not
+     * happened yet). A holder of the same student with a newer version means another
+     * update of {@code current} is in flight, so this one cannot win with {@code current}.
+     * </p>
+     *
+     * @param current the stored version being replaced
+     * @param updated the next version, holding the new email
+     * @return true if the email is now reserved for {@code updated}, false if a concurrent
+     *         update of the same student holds it
+     * @throws EmailAlreadyExistsException if the email belongs to another student
+     */
+    private boolean reserveEmail(Student current, Student updated) {
+        Student owner = emailOwners.compute(updated.email(), (email, holder) ->
+            holder == null || isSupersededBy(holder, current) ? updated : holder);
+
+        if (owner == updated) {
+            return true;
+        }
+        if (owner.id().equals(current.id())) {
+            return false;
+        }
+        throw new EmailAlreadyExistsException("Email already exists");
+    }
+
+    /**
+     * Releases the email of {@code previous} once a newer version or a deletion is stored.
+     * <p>
+     * Only a reservation held by {@code previous} or an older version of the same student
+     * is removed, so a later update that took the same email back keeps its reservation.
+     * </p>
+     *
+     * @param previous the version that was replaced or removed
+     */
+    private void releaseEmail(Student previous) {
+        emailOwners.computeIfPresent(previous.email(), (email, holder) ->
+            isSupersededBy(holder, previous) ? null : holder);
+    }
+
+    /**
+     * Checks whether an email reservation belongs to {@code student} or one of its older versions.
+     *
+     * @param holder the student version holding the reservation
+     * @param student the student version to compare against
+     * @return true if both are the same student and the holder is not newer
+     */
+    private static boolean isSupersededBy(Student holder, Student student) {
+        return holder.id().equals(student.id()) && holder.version() <= student.version();
+    }
+
     /**
      * Converts a Student domain model to a StudentResponse API DTO.
      * <p>
@@ -93,6 +315,7 @@ public class StudentService {
         response.setName(student.name());
         response.setEmail(student.email());
         response.setPhone(student.phone());
+        response.setVersion(student.version());
         return response;
     }
 
@@ -107,21 +330,4 @@ public class StudentService {
     public int getStudentCount() {
         return students.size();
     }
-
-    /**
-     * Checks if a student with the given email already exists.
-     * <p>
-     * This method performs a stream-based search through all stored students
-     * to enforce the unique email constraint. It uses case-sensitive comparison.
-     * </p>
-     *
-     * @param email the email address to check
-     * @return true if a student with this email exists, false otherwise
-     */
-    private boolean emailExists(String email) {
-        return students
-            .values()
-            .stream()
-            .anyMatch(student -> student.email().equals(email));
-    }
 }
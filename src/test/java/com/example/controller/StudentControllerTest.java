@@ -1,9 +1,12 @@
 package com.example.controller;
 
 import com.example.exception.EmailAlreadyExistsException;
+import com.example.exception.StudentNotFoundException;
+import com.example.exception.StudentVersionMismatchException;
 import com.example.service.StudentService;
 import com.example.students.model.StudentRequest;
 import com.example.students.model.StudentResponse;
+import com.example.students.model.StudentUpdateRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +16,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -146,4 +158,256 @@ class StudentControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().contentType("application/problem+json"));
     }
+
+    @Test
+    void getStudent_ShouldReturnOkWithETag_WhenStudentExists() throws Exception {
+        // Given
+        StudentResponse response = new StudentResponse();
+        response.setId("123");
+        response.setName("John Doe");
+        response.setEmail("john.doe@email.com");
+        response.setPhone("(11) 99999-9999");
+        response.setVersion(3L);
+
+        when(studentService.getStudent("123")).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/students/123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.id").value("123"))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void getStudent_ShouldReturnNotFound_WhenStudentDoesNotExist() throws Exception {
+        // Given
+        when(studentService.getStudent("123")).thenThrow(new StudentNotFoundException("Student not found"));
+
+        // When & Then
+        mockMvc.perform(get("/students/123"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/student-not-found"));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnOkWithETag_WhenVersionMatches() throws Exception {
+        // Given
+        StudentUpdateRequest request = new StudentUpdateRequest();
+        request.setEmail("john.new@email.com");
+
+        StudentResponse response = new StudentResponse();
+        response.setId("123");
+        response.setName("John Doe");
+        response.setEmail("john.new@email.com");
+        response.setPhone("(11) 99999-9999");
+        response.setVersion(2L);
+
+        when(studentService.updateStudent(eq("123"), eq(1L), any(StudentUpdateRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.email").value("john.new@email.com"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnPreconditionFailed_WhenVersionIsStale() throws Exception {
+        // Given
+        when(studentService.updateStudent(eq("123"), eq(1L), any(StudentUpdateRequest.class)))
+                .thenThrow(new StudentVersionMismatchException("Student was modified by another request"));
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/version-mismatch"))
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnNotFound_WhenStudentDoesNotExist() throws Exception {
+        // Given
+        when(studentService.updateStudent(eq("123"), eq(1L), any(StudentUpdateRequest.class)))
+                .thenThrow(new StudentNotFoundException("Student not found"));
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/student-not-found"));
+    }
+
+    @Test
+    void updateStudent_ShouldSkipVersionCheck_WhenIfMatchIsWildcard() throws Exception {
+        // Given
+        StudentResponse response = new StudentResponse();
+        response.setId("123");
+        response.setName("Jane Doe");
+        response.setVersion(5L);
+
+        when(studentService.updateStudent(eq("123"), isNull(), any(StudentUpdateRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnPreconditionFailed_WhenIfMatchIsWeak() throws Exception {
+        // Given - weak and non-version tags are passed on as a version that never matches
+        when(studentService.updateStudent(eq("123"), eq(0L), any(StudentUpdateRequest.class)))
+                .thenThrow(new StudentVersionMismatchException("Student was modified by another request"));
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/version-mismatch"));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnPreconditionFailed_WhenIfMatchIsAList() throws Exception {
+        // Given
+        when(studentService.updateStudent(eq("123"), eq(0L), any(StudentUpdateRequest.class)))
+                .thenThrow(new StudentVersionMismatchException("Student was modified by another request"));
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "\"2\", \"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/version-mismatch"));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnPreconditionFailed_WhenIfMatchHasLeadingZeros() throws Exception {
+        // Given - "01" is a different entity tag from the "1" sent as ETag
+        when(studentService.updateStudent(eq("123"), eq(0L), any(StudentUpdateRequest.class)))
+                .thenThrow(new StudentVersionMismatchException("Student was modified by another request"));
+
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "\"01\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/version-mismatch"));
+
+        verify(studentService, never()).updateStudent(eq("123"), eq(1L), any(StudentUpdateRequest.class));
+    }
+
+    @Test
+    void updateStudent_ShouldReturnBadRequest_WhenIfMatchIsMalformed() throws Exception {
+        // When & Then - an unquoted value is not an entity tag
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "abc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/invalid-argument"));
+
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void updateStudent_ShouldReturnBadRequest_WhenIfMatchTagContainsSpaces() throws Exception {
+        // When & Then - spaces are not allowed inside an entity tag
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "W/\"a b\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/invalid-argument"));
+
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void updateStudent_ShouldReturnBadRequest_WhenIfMatchIsMissing() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Jane Doe\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/problem+json"));
+
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void updateStudent_ShouldReturnBadRequest_WhenEmailIsInvalid() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/students/123")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"invalid-email\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteStudent_ShouldReturnNoContent_WhenVersionMatches() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/students/123")
+                .header("If-Match", "\"3\""))
+                .andExpect(status().isNoContent());
+
+        verify(studentService).deleteStudent("123", 3L);
+    }
+
+    @Test
+    void deleteStudent_ShouldReturnPreconditionFailed_WhenVersionIsStale() throws Exception {
+        // Given
+        doThrow(new StudentVersionMismatchException("Student was modified by another request"))
+                .when(studentService).deleteStudent("123", 3L);
+
+        // When & Then
+        mockMvc.perform(delete("/students/123")
+                .header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().contentType("application/problem+json"));
+    }
+
+    @Test
+    void deleteStudent_ShouldReturnNotFound_WhenStudentDoesNotExist() throws Exception {
+        // Given
+        doThrow(new StudentNotFoundException("Student not found"))
+                .when(studentService).deleteStudent("123", 3L);
+
+        // When & Then
+        mockMvc.perform(delete("/students/123")
+                .header("If-Match", "\"3\""))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/student-not-found"));
+    }
+
+    @Test
+    void deleteStudent_ShouldReturnBadRequest_WhenIfMatchIsMalformed() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/students/123")
+                .header("If-Match", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("https://api.example.com/errors/invalid-argument"));
+
+        verifyNoInteractions(studentService);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,334 @@
+package com.example.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.exception.EmailAlreadyExistsException;
+import com.example.exception.StudentNotFoundException;
+import com.example.exception.StudentVersionMismatchException;
+import com.example.students.model.StudentRequest;
+import com.example.students.model.StudentResponse;
+import com.example.students.model.StudentUpdateRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Concurrency tests for optimistic updates and deletes.
+ * <p>
+ * The stress tests check that the history of successful operations is linearizable:
+ * every success on a student takes a distinct version, versions have no gaps, and the
+ * final state is the write with the highest version. Creator threads race the updates for
+ * the emails being moved, to catch an email that is briefly free or held twice. The
+ * contention benchmark only runs with {@code -Dbenchmark=true}.
+ * </p>
+ */
+class StudentServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    private static final int CREATORS = 4;
+
+    private record Write(String id, long version, String name, String email) {
+    }
+
+    @Test
+    void concurrentUpdates_ShouldProduceLinearizableHistory() throws Exception {
+        StudentService studentService = new StudentService();
+        int studentCount = 8;
+        int operationsPerThread = 2_000;
+
+        List<String> ids = new ArrayList<>();
+        List<String> emailPool = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            ids.add(studentService.createStudent(
+                    new StudentRequest("student-" + i, "s" + i + "@email.com", "111")).getId());
+            emailPool.add("s" + i + "@email.com");
+        }
+        for (int i = 0; i < studentCount; i++) {
+            emailPool.add("spare" + i + "@email.com");
+        }
+
+        // Created students beyond this limit are deleted again, so the pool never runs dry
+        int keptLimit = studentCount / 2;
+        AtomicInteger kept = new AtomicInteger();
+        Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+        LongAdder updatersDone = new LongAdder();
+
+        Queue<Write> writes = new ConcurrentLinkedQueue<>();
+        runConcurrently(THREADS + CREATORS, thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (thread >= THREADS) {
+                while (updatersDone.sum() < THREADS) {
+                    String email = emailPool.get(random.nextInt(emailPool.size()));
+                    StudentResponse created;
+                    try {
+                        created = studentService.createStudent(new StudentRequest("created", email, "111"));
+                    } catch (EmailAlreadyExistsException expected) {
+                        continue;
+                    }
+                    // While the created student holds the email, no moved student may store it
+                    for (String id : ids) {
+                        assertNotEquals(email, studentService.getStudent(id).getEmail(), "email held twice");
+                    }
+                    if (kept.getAndIncrement() < keptLimit) {
+                        createdIds.add(created.getId());
+                    } else {
+                        studentService.deleteStudent(created.getId(), 1L);
+                    }
+                }
+                return;
+            }
+            for (int op = 0; op < operationsPerThread; op++) {
+                String id = ids.get(random.nextInt(ids.size()));
+                long version = studentService.getStudent(id).getVersion();
+                String name = "t" + thread + "-" + op;
+                String email = random.nextBoolean() ? emailPool.get(random.nextInt(emailPool.size())) : null;
+                try {
+                    StudentResponse updated = studentService.updateStudent(id, version, update(name, email));
+                    writes.add(new Write(id, updated.getVersion(), updated.getName(), updated.getEmail()));
+                } catch (StudentVersionMismatchException | EmailAlreadyExistsException expected) {
+                    // lost the race or the email is taken; both leave the student untouched
+                }
+            }
+            updatersDone.increment();
+        });
+
+        Map<String, List<Write>> writesById = writes.stream().collect(Collectors.groupingBy(Write::id));
+        Set<String> finalEmails = new HashSet<>();
+        for (String id : ids) {
+            StudentResponse current = studentService.getStudent(id);
+            List<Write> history = new ArrayList<>(writesById.getOrDefault(id, List.of()));
+            history.sort(Comparator.comparingLong(Write::version));
+
+            // Each successful update took exactly the next version
+            for (int i = 0; i < history.size(); i++) {
+                assertEquals(i + 2L, history.get(i).version(), "versions of " + id);
+            }
+            assertEquals(history.size() + 1L, current.getVersion());
+
+            // The stored state is the last write in version order
+            if (!history.isEmpty()) {
+                Write last = history.get(history.size() - 1);
+                assertEquals(last.name(), current.getName());
+                assertEquals(last.email(), current.getEmail());
+            }
+            assertTrue(finalEmails.add(current.getEmail()), "email held twice: " + current.getEmail());
+        }
+        for (String id : createdIds) {
+            String email = studentService.getStudent(id).getEmail();
+            assertTrue(finalEmails.add(email), "email held twice: " + email);
+        }
+        assertEquals(ids.size() + createdIds.size(), studentService.getStudentCount());
+
+        // The email index matches the final state: used emails are taken, all others are free
+        for (String email : emailPool) {
+            if (finalEmails.contains(email)) {
+                assertThrows(EmailAlreadyExistsException.class,
+                        () -> studentService.createStudent(new StudentRequest("other", email, "111")));
+            } else {
+                assertNotNull(studentService.createStudent(new StudentRequest("other", email, "111")).getId());
+            }
+        }
+    }
+
+    @Test
+    void wildcardUpdatesAndDeletes_ShouldNeverReportVersionMismatch() throws Exception {
+        int rounds = 50;
+        int updatesPerThread = 200;
+
+        for (int round = 0; round < rounds; round++) {
+            StudentService studentService = new StudentService();
+            String id = studentService.createStudent(
+                    new StudentRequest("John", "r" + round + "-a@email.com", "111")).getId();
+            List<String> emails = List.of("r" + round + "-a@email.com", "r" + round + "-b@email.com");
+
+            LongAdder updates = new LongAdder();
+            LongAdder deletes = new LongAdder();
+            LongAdder mismatches = new LongAdder();
+            runConcurrently(THREADS, thread -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    for (int op = 0; op < updatesPerThread; op++) {
+                        String email = emails.get(random.nextInt(emails.size()));
+                        studentService.updateStudent(id, null, update("t" + thread + "-" + op, email));
+                        updates.increment();
+                    }
+                    if (thread % 2 == 0) {
+                        studentService.deleteStudent(id, null);
+                        deletes.increment();
+                    }
+                } catch (StudentNotFoundException expected) {
+                    // the student was deleted; the only way If-Match: * may fail
+                } catch (StudentVersionMismatchException mismatch) {
+                    mismatches.increment();
+                }
+            });
+
+            assertEquals(0, mismatches.sum(), "If-Match: * must never return 412");
+            assertEquals(1, deletes.sum());
+            assertEquals(0, studentService.getStudentCount());
+            // The deleting thread ran all its updates first, and the delete released both emails
+            assertTrue(updates.sum() >= updatesPerThread);
+            for (String email : emails) {
+                studentService.createStudent(new StudentRequest("other", email, "111"));
+            }
+        }
+    }
+
+    @Test
+    void concurrentDeletes_ShouldSucceedExactlyOnce() throws Exception {
+        StudentService studentService = new StudentService();
+        String id = studentService.createStudent(new StudentRequest("John", "john@email.com", "111")).getId();
+
+        LongAdder deleted = new LongAdder();
+        runConcurrently(THREADS, thread -> {
+            try {
+                studentService.deleteStudent(id, 1L);
+                deleted.increment();
+            } catch (StudentNotFoundException expected) {
+                // another thread deleted it first
+            }
+        });
+
+        assertEquals(1, deleted.sum());
+        assertEquals(0, studentService.getStudentCount());
+        assertNotNull(studentService.createStudent(new StudentRequest("Jane", "john@email.com", "111")).getId());
+    }
+
+    @Test
+    void concurrentUpdateAndDelete_ShouldNeverLeakEmailReservations() throws Exception {
+        StudentService studentService = new StudentService();
+        int rounds = 500;
+
+        for (int round = 0; round < rounds; round++) {
+            String id = studentService.createStudent(
+                    new StudentRequest("John", "r" + round + "@email.com", "111")).getId();
+            String movedEmail = "r" + round + "-moved@email.com";
+
+            AtomicBoolean updated = new AtomicBoolean();
+            AtomicBoolean deleted = new AtomicBoolean();
+            runConcurrently(2, thread -> {
+                try {
+                    if (thread == 0) {
+                        studentService.updateStudent(id, 1L, update(null, movedEmail));
+                        updated.set(true);
+                    } else {
+                        studentService.deleteStudent(id, 1L);
+                        deleted.set(true);
+                    }
+                } catch (StudentVersionMismatchException | StudentNotFoundException expected) {
+                    // the other operation won
+                }
+            });
+
+            assertTrue(updated.get() ^ deleted.get(), "exactly one operation must win");
+            if (deleted.get()) {
+                // Both emails are free once the student is gone
+                studentService.createStudent(new StudentRequest("other", "r" + round + "@email.com", "111"));
+                studentService.createStudent(new StudentRequest("other", movedEmail, "111"));
+            } else {
+                assertThrows(EmailAlreadyExistsException.class,
+                        () -> studentService.createStudent(new StudentRequest("other", movedEmail, "111")));
+                studentService.createStudent(new StudentRequest("other", "r" + round + "@email.com", "111"));
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void contentionBenchmark() throws Exception {
+        long durationMillis = 1_000;
+
+        System.out.printf("%-8s %-8s %14s %14s %10s%n", "threads", "ids", "updates/s", "conflicts/s", "retry %");
+        for (int studentCount : new int[] {4, 64}) {
+            for (int threads : new int[] {1, 2, 4, 8, 16, 32}) {
+                StudentService studentService = new StudentService();
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < studentCount; i++) {
+                    ids.add(studentService.createStudent(
+                            new StudentRequest("student-" + i, "s" + i + "-a@email.com", "111")).getId());
+                }
+
+                LongAdder updates = new LongAdder();
+                LongAdder conflicts = new LongAdder();
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+                runConcurrently(threads, thread -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int index = random.nextInt(studentCount);
+                        String id = ids.get(index);
+                        // Read-modify-write with retry, alternating the email to move its reservation
+                        while (true) {
+                            StudentResponse current = studentService.getStudent(id);
+                            String email = "s" + index + (current.getVersion() % 2 == 0 ? "-a" : "-b") + "@email.com";
+                            try {
+                                studentService.updateStudent(id, current.getVersion(), update(null, email));
+                                updates.increment();
+                                break;
+                            } catch (StudentVersionMismatchException conflict) {
+                                conflicts.increment();
+                            }
+                        }
+                    }
+                });
+
+                double seconds = durationMillis / 1_000.0;
+                double retryRate = 100.0 * conflicts.sum() / Math.max(1, updates.sum() + conflicts.sum());
+                System.out.printf("%-8d %-8d %14.0f %14.0f %9.1f%%%n",
+                        threads, studentCount, updates.sum() / seconds, conflicts.sum() / seconds, retryRate);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(int threads, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int current = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(current);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StudentUpdateRequest update(String name, String email) {
+        StudentUpdateRequest request = new StudentUpdateRequest();
+        request.setName(name);
+        request.setEmail(email);
+        return request;
+    }
+}
@@ -53,4 +53,20 @@ class StudentRecordTest {
         assertNotEquals(student1, student3);
         assertEquals(student1.hashCode(), student2.hashCode());
     }
+
+    @Test
+    void withChanges_ShouldApplyNonNullFieldsAndIncrementVersion() {
+        Student student = Student.create("John Doe", "john@email.com", "111");
+
+        Student updated = student.withChanges(null, "johnny@email.com", null);
+
+        assertEquals(1L, student.version());
+        assertEquals(2L, updated.version());
+        assertEquals(student.id(), updated.id());
+        assertEquals("John Doe", updated.name());
+        assertEquals("johnny@email.com", updated.email());
+        assertEquals("111", updated.phone());
+        assertEquals(student.createdAt(), updated.createdAt());
+        assertEquals("john@email.com", student.email());
+    }
 }
\ No newline at end of file
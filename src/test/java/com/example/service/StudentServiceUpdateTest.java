@@ -0,0 +1,131 @@
+package com.example.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.exception.EmailAlreadyExistsException;
+import com.example.exception.StudentNotFoundException;
+import com.example.exception.StudentVersionMismatchException;
+import com.example.students.model.StudentRequest;
+import com.example.students.model.StudentResponse;
+import com.example.students.model.StudentUpdateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StudentServiceUpdateTest {
+
+    private StudentService studentService;
+
+    @BeforeEach
+    void setUp() {
+        studentService = new StudentService();
+    }
+
+    @Test
+    void updateStudent_ShouldApplyChangesAndIncrementVersion() {
+        StudentResponse created = create("John Doe", "john@email.com");
+
+        StudentResponse updated = studentService.updateStudent(created.getId(), 1L, update(null, null, "222"));
+
+        assertEquals(2L, updated.getVersion());
+        assertEquals("John Doe", updated.getName());
+        assertEquals("john@email.com", updated.getEmail());
+        assertEquals("222", updated.getPhone());
+        assertEquals(updated, studentService.getStudent(created.getId()));
+    }
+
+    @Test
+    void updateStudent_ShouldRejectStaleVersion() {
+        StudentResponse created = create("John Doe", "john@email.com");
+        studentService.updateStudent(created.getId(), 1L, update("Johnny", null, null));
+
+        assertThrows(StudentVersionMismatchException.class,
+                () -> studentService.updateStudent(created.getId(), 1L, update("Jack", null, null)));
+        assertEquals("Johnny", studentService.getStudent(created.getId()).getName());
+    }
+
+    @Test
+    void updateStudent_ShouldAcceptAnyVersion_WhenExpectedVersionIsNull() {
+        StudentResponse created = create("John Doe", "john@email.com");
+        studentService.updateStudent(created.getId(), 1L, update("Johnny", null, null));
+
+        StudentResponse updated = studentService.updateStudent(created.getId(), null, update("Jack", null, null));
+
+        assertEquals(3L, updated.getVersion());
+        assertEquals("Jack", updated.getName());
+    }
+
+    @Test
+    void updateStudent_ShouldThrowNotFound_WhenStudentDoesNotExist() {
+        assertThrows(StudentNotFoundException.class,
+                () -> studentService.updateStudent("missing", 1L, update("Jack", null, null)));
+    }
+
+    @Test
+    void updateStudent_ShouldMoveEmailReservation() {
+        StudentResponse created = create("John Doe", "john@email.com");
+
+        studentService.updateStudent(created.getId(), 1L, update(null, "johnny@email.com", null));
+
+        assertThrows(EmailAlreadyExistsException.class, () -> create("Other", "johnny@email.com"));
+        assertNotNull(create("Other", "john@email.com").getId());
+    }
+
+    @Test
+    void updateStudent_ShouldReleaseEmailReservedByOlderVersion() {
+        StudentResponse created = create("John Doe", "john@email.com");
+        studentService.updateStudent(created.getId(), 1L, update("Johnny", null, null));
+
+        // Moving away from an email reserved by an older version must still release it
+        studentService.updateStudent(created.getId(), 2L, update(null, "johnny@email.com", null));
+
+        assertThrows(EmailAlreadyExistsException.class, () -> create("Other", "johnny@email.com"));
+        assertNotNull(create("Other", "john@email.com").getId());
+    }
+
+    @Test
+    void updateStudent_ShouldRejectEmailOfAnotherStudent() {
+        StudentResponse john = create("John Doe", "john@email.com");
+        create("Jane Doe", "jane@email.com");
+
+        assertThrows(EmailAlreadyExistsException.class,
+                () -> studentService.updateStudent(john.getId(), 1L, update(null, "jane@email.com", null)));
+
+        StudentResponse current = studentService.getStudent(john.getId());
+        assertEquals(1L, current.getVersion());
+        assertEquals("john@email.com", current.getEmail());
+        assertThrows(EmailAlreadyExistsException.class, () -> create("Other", "john@email.com"));
+    }
+
+    @Test
+    void deleteStudent_ShouldRemoveStudentAndReleaseEmail() {
+        StudentResponse created = create("John Doe", "john@email.com");
+
+        studentService.deleteStudent(created.getId(), 1L);
+
+        assertEquals(0, studentService.getStudentCount());
+        assertThrows(StudentNotFoundException.class, () -> studentService.getStudent(created.getId()));
+        assertNotNull(create("Other", "john@email.com").getId());
+    }
+
+    @Test
+    void deleteStudent_ShouldRejectStaleVersion() {
+        StudentResponse created = create("John Doe", "john@email.com");
+        studentService.updateStudent(created.getId(), 1L, update("Johnny", null, null));
+
+        assertThrows(StudentVersionMismatchException.class,
+                () -> studentService.deleteStudent(created.getId(), 1L));
+        assertEquals(1, studentService.getStudentCount());
+    }
+
+    private StudentResponse create(String name, String email) {
+        return studentService.createStudent(new StudentRequest(name, email, "111"));
+    }
+
+    private static StudentUpdateRequest update(String name, String email, String phone) {
+        StudentUpdateRequest request = new StudentUpdateRequest();
+        request.setName(name);
+        request.setEmail(email);
+        request.setPhone(phone);
+        return request;
+    }
+}